@@ -6,6 +6,7 @@ import com.app.modules.FileHandler;
 import com.app.utils.DateUtils;
 import com.app.utils.StringUtils;
 
+import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.util.Scanner;
 import org.apache.logging.log4j.LogManager;
@@ -25,27 +26,43 @@ public class Main {
         
         Scanner scanner = new Scanner(System.in);
         
+        run(scanner, System.out, "output.txt");
+        
+        scanner.close();
+        logger.info("Application ending");
+    }
+    
+    /**
+     * Runs the application flow with the given input, output and result file
+     * Used by main with the console, and by test harnesses with synthetic input.
+     * 
+     * @param scanner The source of the two numbers, one per line
+     * @param out The stream receiving the console messages
+     * @param filename The name of the file receiving the result
+     * @return The FileHandler status code of the result file write
+     */
+    public static int run(Scanner scanner, PrintStream out, String filename) {
         // String utilities demonstration - equivalent to COBOL STRING_UTILS call
         String username = "Utilisateur";
         String greeting = StringUtils.generateGreeting(username);
-        System.out.println(greeting);
+        out.println(greeting);
         
         // Date utilities demonstration - equivalent to COBOL DATE_UTILS call
         DateModel currentDate = DateUtils.getCurrentDate();
         String formattedDate = DateUtils.formatDate(currentDate);
-        System.out.println("Date: " + formattedDate);
+        out.println("Date: " + formattedDate);
         
         // Calculator demonstration - equivalent to COBOL CALCULATOR call
-        System.out.println("Entrez le premier nombre:");
+        out.println("Entrez le premier nombre:");
         BigDecimal num1;
         try {
             num1 = new BigDecimal(scanner.nextLine());
             // Validate against Calculator constants
             if (num1.compareTo(Calculator.MAX_VALUE) > 0) {
-                System.out.println("Valeur trop grande, limite  " + Calculator.MAX_VALUE);
+                out.println("Valeur trop grande, limite  " + Calculator.MAX_VALUE);
                 num1 = Calculator.MAX_VALUE;
             } else if (num1.compareTo(Calculator.MIN_VALUE) < 0) {
-                System.out.println("Valeur trop petite, limite  " + Calculator.MIN_VALUE);
+                out.println("Valeur trop petite, limite  " + Calculator.MIN_VALUE);
                 num1 = Calculator.MIN_VALUE;
             }
         } catch (NumberFormatException e) {
@@ -53,16 +70,16 @@ public class Main {
             num1 = BigDecimal.ZERO;
         }
         
-        System.out.println("Entrez le deuxime nombre:");
+        out.println("Entrez le deuxime nombre:");
         BigDecimal num2;
         try {
             num2 = new BigDecimal(scanner.nextLine());
             // Validate against Calculator constants
             if (num2.compareTo(Calculator.MAX_VALUE) > 0) {
-                System.out.println("Valeur trop grande, limite  " + Calculator.MAX_VALUE);
+                out.println("Valeur trop grande, limite  " + Calculator.MAX_VALUE);
                 num2 = Calculator.MAX_VALUE;
             } else if (num2.compareTo(Calculator.MIN_VALUE) < 0) {
-                System.out.println("Valeur trop petite, limite  " + Calculator.MIN_VALUE);
+                out.println("Valeur trop petite, limite  " + Calculator.MIN_VALUE);
                 num2 = Calculator.MIN_VALUE;
             }
         } catch (NumberFormatException e) {
@@ -71,26 +88,24 @@ public class Main {
         }
         
         BigDecimal result = Calculator.add(num1, num2);
-        System.out.println("Rsultat de l'addition: " + result);
+        out.println("Rsultat de l'addition: " + result);
         
         // File handler demonstration - equivalent to COBOL FILE_HANDLER call
-        String filename = "output.txt";
         String fileContent = "Rsultat du calcul: " + result;
         
         int fileStatus = FileHandler.writeToFile(filename, fileContent);
         
         if (fileStatus == FileHandler.FILE_STATUS_OK) {
-            System.out.println("Le rsultat a t enregistr dans " + filename);
+            out.println("Le rsultat a t enregistr dans " + filename);
             logger.info("Result successfully written to file: {}", filename);
         } else if (fileStatus == FileHandler.FILE_STATUS_NONAME) {
-            System.out.println("Erreur: Nom de fichier invalide");
+            out.println("Erreur: Nom de fichier invalide");
             logger.error("Invalid filename: {}", filename);
         } else {
-            System.out.println("Erreur lors de l'enregistrement du fichier");
+            out.println("Erreur lors de l'enregistrement du fichier");
             logger.error("Error writing to file: {}, status code: {}", filename, fileStatus);
         }
         
-        scanner.close();
-        logger.info("Application ending");
+        return fileStatus;
     }
 }
\ No newline at end of file
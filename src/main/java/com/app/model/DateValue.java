@@ -0,0 +1,190 @@
+package com.app.model;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Immutable value type for date information
+ * Read-only counterpart of DateModel, safe to share across threads and to use as a cache key.
+ * Instances inside the year window of the default DateValuePool are interned, so repeated
+ * dates share a single instance.
+ */
+public final class DateValue implements Comparable<DateValue> {
+
+    // Range of the 4-digit DATE-YEAR field
+    public static final int MIN_YEAR = 0;
+    public static final int MAX_YEAR = 9999;
+
+    // Fields corresponding to COBOL DATE-STRUCTURE
+    private final int year;    // DATE-YEAR
+    private final int month;   // DATE-MONTH
+    private final int day;     // DATE-DAY
+
+    /**
+     * Constructor with all fields, used by DateValuePool
+     * Callers must have validated the fields beforehand
+     *
+     * @param year The year (4 digits)
+     * @param month The month (1-12)
+     * @param day The day (1-31)
+     */
+    DateValue(int year, int month, int day) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+    }
+
+    /**
+     * Returns the date value for the given fields, interned when inside the default pool window
+     *
+     * @param year The year (4 digits)
+     * @param month The month (1-12)
+     * @param day The day (1-31)
+     * @return The date value
+     * @throws IllegalArgumentException if the fields do not form a valid date
+     */
+    public static DateValue of(int year, int month, int day) {
+        return DateValuePool.getDefault().intern(year, month, day);
+    }
+
+    /**
+     * Returns the date value for the given LocalDate
+     *
+     * @param date Java LocalDate object
+     * @return The date value
+     */
+    public static DateValue of(LocalDate date) {
+        return of(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Returns the date value matching the current state of a mutable DateModel
+     *
+     * @param dateModel The date model to convert
+     * @return The date value, or null if dateModel is null
+     * @throws IllegalArgumentException if the model does not hold a valid date
+     */
+    public static DateValue from(DateModel dateModel) {
+        if (dateModel == null) {
+            return null;
+        }
+        return of(dateModel.getYear(), dateModel.getMonth(), dateModel.getDay());
+    }
+
+    /**
+     * Returns the date value for a packed YYYYMMDD integer
+     *
+     * @param packed The packed date, as returned by toPackedInt()
+     * @return The date value
+     * @throws IllegalArgumentException if the packed value is not a valid date
+     */
+    public static DateValue fromPackedInt(int packed) {
+        return of(packed / 10000, (packed / 100) % 100, packed % 100);
+    }
+
+    /**
+     * Checks that the fields form a valid calendar date with a 4-digit year
+     *
+     * @param year The year
+     * @param month The month
+     * @param day The day
+     * @throws IllegalArgumentException if the fields do not form a valid date
+     */
+    static void validate(int year, int month, int day) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        try {
+            LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid date: " + year + "-" + month + "-" + day, e);
+        }
+    }
+
+    /**
+     * Get the year
+     *
+     * @return The year value
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Get the month
+     *
+     * @return The month value (1-12)
+     */
+    public int getMonth() {
+        return month;
+    }
+
+    /**
+     * Get the day
+     *
+     * @return The day value (1-31)
+     */
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * Pack the date into a single YYYYMMDD integer
+     *
+     * @return The packed date
+     */
+    public int toPackedInt() {
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Convert to a new mutable DateModel
+     *
+     * @return A DateModel holding the same fields
+     */
+    public DateModel toDateModel() {
+        return new DateModel(year, month, day);
+    }
+
+    /**
+     * Convert to Java LocalDate
+     *
+     * @return A LocalDate representation of this date
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.of(year, month, day);
+    }
+
+    @Override
+    public int compareTo(DateValue other) {
+        if (year != other.year) {
+            return Integer.compare(year, other.year);
+        }
+        if (month != other.month) {
+            return Integer.compare(month, other.month);
+        }
+        return Integer.compare(day, other.day);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DateValue)) {
+            return false;
+        }
+        DateValue other = (DateValue) obj;
+        return year == other.year && month == other.month && day == other.day;
+    }
+
+    @Override
+    public int hashCode() {
+        return toPackedInt();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%04d-%02d-%02d", year, month, day);
+    }
+}
@@ -0,0 +1,123 @@
+package com.app.model;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Flyweight pool of DateValue instances covering a fixed window of years
+ * Dates inside the window are created once on first use and shared afterwards;
+ * dates outside the window are still returned, but as fresh instances.
+ */
+public class DateValuePool {
+
+    // Default window, overridable with -Dapp.date.pool.minYear / -Dapp.date.pool.maxYear
+    public static final int DEFAULT_MIN_YEAR = 1900;
+    public static final int DEFAULT_MAX_YEAR = 2099;
+
+    // One slot per (month, day) pair of a year, invalid days such as 31/02 stay empty
+    private static final int SLOTS_PER_YEAR = 12 * 31;
+
+    private static final Logger logger = LogManager.getLogger(DateValuePool.class);
+
+    private static final DateValuePool DEFAULT = createDefault(
+            System.getProperty("app.date.pool.minYear"), System.getProperty("app.date.pool.maxYear"));
+
+    private final int minYear;
+    private final int maxYear;
+    private final AtomicReferenceArray<DateValue> slots;
+
+    /**
+     * Constructor with the year window to intern
+     *
+     * @param minYear First interned year (inclusive)
+     * @param maxYear Last interned year (inclusive)
+     * @throws IllegalArgumentException if the window is empty or outside the 4-digit year range
+     */
+    public DateValuePool(int minYear, int maxYear) {
+        if (minYear < DateValue.MIN_YEAR || maxYear > DateValue.MAX_YEAR || minYear > maxYear) {
+            throw new IllegalArgumentException("Invalid year window: " + minYear + "-" + maxYear);
+        }
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        this.slots = new AtomicReferenceArray<>((maxYear - minYear + 1) * SLOTS_PER_YEAR);
+    }
+
+    /**
+     * Builds the default pool from the system property values, falling back to the default window
+     * when they are malformed or do not form a valid window
+     *
+     * @param minProperty Value of app.date.pool.minYear, or null if not set
+     * @param maxProperty Value of app.date.pool.maxYear, or null if not set
+     * @return The default pool
+     */
+    static DateValuePool createDefault(String minProperty, String maxProperty) {
+        try {
+            int minYear = minProperty == null ? DEFAULT_MIN_YEAR : Integer.parseInt(minProperty.trim());
+            int maxYear = maxProperty == null ? DEFAULT_MAX_YEAR : Integer.parseInt(maxProperty.trim());
+            return new DateValuePool(minYear, maxYear);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+            logger.warn("Invalid date pool window {}-{}, using {}-{}", minProperty, maxProperty,
+                    DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+            return new DateValuePool(DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+        }
+    }
+
+    /**
+     * Get the shared pool used by DateValue.of
+     *
+     * @return The default pool
+     */
+    public static DateValuePool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the shared instance for the given date, creating it on first use
+     *
+     * @param year The year (4 digits)
+     * @param month The month (1-12)
+     * @param day The day (1-31)
+     * @return The date value, shared when the year is inside the window
+     * @throws IllegalArgumentException if the fields do not form a valid date
+     */
+    public DateValue intern(int year, int month, int day) {
+        if (year < minYear || year > maxYear || month < 1 || month > 12 || day < 1 || day > 31) {
+            DateValue.validate(year, month, day);
+            return new DateValue(year, month, day);
+        }
+
+        int index = (year - minYear) * SLOTS_PER_YEAR + (month - 1) * 31 + (day - 1);
+        DateValue cached = slots.get(index);
+        if (cached != null) {
+            return cached;
+        }
+
+        DateValue.validate(year, month, day);
+        DateValue created = new DateValue(year, month, day);
+        // Another thread may have won the race, keep whichever instance was published first
+        if (slots.compareAndSet(index, null, created)) {
+            return created;
+        }
+        return slots.get(index);
+    }
+
+    /**
+     * Get the first interned year
+     *
+     * @return The lower bound of the window (inclusive)
+     */
+    public int getMinYear() {
+        return minYear;
+    }
+
+    /**
+     * Get the last interned year
+     *
+     * @return The upper bound of the window (inclusive)
+     */
+    public int getMaxYear() {
+        return maxYear;
+    }
+}
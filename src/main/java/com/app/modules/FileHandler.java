@@ -1,8 +1,13 @@
 package com.app.modules;
 
+import com.app.model.DateValue;
+import com.app.utils.DateUtils;
+
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -39,6 +44,41 @@ public class FileHandler {
         }
     }
     
+    /**
+     * Writes the records of a result store to a file, one "amount;date" line per record
+     * Records are streamed from the store, so the content is never held in memory as a whole.
+     * 
+     * @param filename The name of the file to write to
+     * @param results The result store to write
+     * @return Status code (0=success, 1=error or missing/closed store, 2=no filename)
+     */
+    public static int writeResults(String filename, OffHeapResultStore results) {
+        if (filename == null || filename.trim().isEmpty()) {
+            return FILE_STATUS_NONAME;
+        }
+        if (results == null || results.isClosed()) {
+            return FILE_STATUS_ERROR;
+        }
+        
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+            results.forEach((index, scaledAmount, packedDate) -> {
+                try {
+                    writer.write(BigDecimal.valueOf(scaledAmount, OffHeapResultStore.SCALE).toPlainString());
+                    writer.write(';');
+                    if (packedDate != OffHeapResultStore.NO_DATE) {
+                        writer.write(DateUtils.formatDateValue(DateValue.fromPackedInt(packedDate)));
+                    }
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return FILE_STATUS_OK;
+        } catch (IOException | UncheckedIOException | IllegalArgumentException | IllegalStateException e) {
+            return FILE_STATUS_ERROR;
+        }
+    }
+    
     /**
      * Checks if a file exists
      * 
@@ -0,0 +1,399 @@
+package com.app.modules;
+
+import com.app.model.DateValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only store for calculation results kept outside the Java heap
+ * Each record holds an amount as a long scaled to 2 decimals (the precision used by Calculator)
+ * and a date packed as YYYYMMDD. Records are written to direct buffers until the memory budget
+ * is reached, then spilled to a temporary file, so the heap footprint does not depend on the
+ * number of records. This class is not thread-safe.
+ * Direct buffers are only returned to the OS when the GC collects them after close(), which for
+ * long-lived stores may take a full GC. To process batches back to back, keep one store and
+ * call clear() between batches: it reuses the same buffers and truncates the spill file.
+ */
+public class OffHeapResultStore implements AutoCloseable {
+
+    // Layout of one record: scaled amount (8 bytes) followed by packed date (4 bytes)
+    public static final int RECORD_SIZE = 12;
+    public static final int SCALE = 2;
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    // Packed date value used when a record has no date
+    public static final int NO_DATE = 0;
+
+    private static final int CHUNK_RECORDS = 64 * 1024;
+    private static final int SPILL_BUFFER_RECORDS = 8 * 1024;
+
+    /**
+     * Callback for sequential read-back of the store
+     */
+    public interface ResultVisitor {
+        /**
+         * Visits one record
+         *
+         * @param index The record index
+         * @param scaledAmount The amount scaled to SCALE decimals
+         * @param packedDate The date as YYYYMMDD, or NO_DATE
+         */
+        void visit(long index, long scaledAmount, int packedDate);
+    }
+
+    private final long memoryBudget;
+    private final long memoryCapacity;
+    private final int chunkRecords;
+    private final ByteBuffer[] chunks;
+
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private ByteBuffer spillWriteBuffer;
+    private ByteBuffer spillReadBuffer;
+    private ByteBuffer spillScanBuffer;
+    private long spillFlushed;
+
+    private long size;
+    private boolean closed;
+
+    // Offset of the record located by the last call to locate()
+    private int locatedOffset;
+
+    /**
+     * Constructor with the default memory budget
+     */
+    public OffHeapResultStore() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Constructor with a memory budget
+     *
+     * @param memoryBudget Maximum number of bytes kept in direct memory before spilling to disk
+     * @throws IllegalArgumentException if the budget is negative or needs too many chunks
+     */
+    public OffHeapResultStore(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+        this.memoryCapacity = memoryBudget / RECORD_SIZE;
+        this.chunkRecords = (int) Math.max(1, Math.min(CHUNK_RECORDS, memoryCapacity));
+        long chunkCount = (memoryCapacity + chunkRecords - 1) / chunkRecords;
+        if (chunkCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Memory budget too large: " + memoryBudget);
+        }
+        this.chunks = new ByteBuffer[(int) chunkCount];
+    }
+
+    /**
+     * Appends a result
+     *
+     * @param amount The amount, rounded to SCALE decimals (null is stored as zero)
+     * @param date The date of the result, may be null
+     * @return The index of the new record
+     * @throws ArithmeticException if the scaled amount does not fit in a long
+     * @throws IllegalStateException if the store is closed
+     */
+    public long append(BigDecimal amount, DateValue date) {
+        if (amount == null) amount = BigDecimal.ZERO;
+
+        long scaledAmount = amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        return append(scaledAmount, date == null ? NO_DATE : date.toPackedInt());
+    }
+
+    /**
+     * Appends a result already in its stored form
+     *
+     * @param scaledAmount The amount scaled to SCALE decimals
+     * @param packedDate The date as YYYYMMDD, or NO_DATE
+     * @return The index of the new record
+     * @throws IllegalArgumentException if packedDate is neither NO_DATE nor a valid date
+     * @throws IllegalStateException if the store is closed
+     */
+    public long append(long scaledAmount, int packedDate) {
+        checkOpen();
+        if (packedDate != NO_DATE) {
+            // Fail now rather than when the record is read back
+            DateValue.fromPackedInt(packedDate);
+        }
+        long index = size;
+
+        if (index < memoryCapacity) {
+            int chunk = (int) (index / chunkRecords);
+            if (chunks[chunk] == null) {
+                long chunkSize = Math.min(chunkRecords, memoryCapacity - (long) chunk * chunkRecords);
+                chunks[chunk] = ByteBuffer.allocateDirect((int) chunkSize * RECORD_SIZE);
+            }
+            int offset = (int) (index % chunkRecords) * RECORD_SIZE;
+            chunks[chunk].putLong(offset, scaledAmount);
+            chunks[chunk].putInt(offset + Long.BYTES, packedDate);
+        } else {
+            if (spillChannel == null) {
+                openSpill();
+            }
+            if (!spillWriteBuffer.hasRemaining()) {
+                flushSpill();
+            }
+            spillWriteBuffer.putLong(scaledAmount);
+            spillWriteBuffer.putInt(packedDate);
+        }
+
+        size++;
+        return index;
+    }
+
+    /**
+     * Reads the scaled amount of a record
+     *
+     * @param index The record index
+     * @return The amount scaled to SCALE decimals
+     */
+    public long getScaledAmount(long index) {
+        ByteBuffer buffer = locate(index);
+        return buffer.getLong(locatedOffset);
+    }
+
+    /**
+     * Reads the packed date of a record
+     *
+     * @param index The record index
+     * @return The date as YYYYMMDD, or NO_DATE
+     */
+    public int getPackedDate(long index) {
+        ByteBuffer buffer = locate(index);
+        return buffer.getInt(locatedOffset + Long.BYTES);
+    }
+
+    /**
+     * Reads the amount of a record
+     *
+     * @param index The record index
+     * @return The amount with SCALE decimals
+     */
+    public BigDecimal getAmount(long index) {
+        return BigDecimal.valueOf(getScaledAmount(index), SCALE);
+    }
+
+    /**
+     * Reads the date of a record
+     *
+     * @param index The record index
+     * @return The shared DateValue of the record, or null if it has no date
+     */
+    public DateValue getDate(long index) {
+        int packedDate = getPackedDate(index);
+        return packedDate == NO_DATE ? null : DateValue.fromPackedInt(packedDate);
+    }
+
+    /**
+     * Visits every record in index order
+     * Spilled records are read back in blocks, which is much cheaper than random access.
+     *
+     * @param visitor The callback receiving each record
+     */
+    public void forEach(ResultVisitor visitor) {
+        checkOpen();
+        long index = 0;
+
+        for (ByteBuffer chunk : chunks) {
+            if (chunk == null) {
+                break;
+            }
+            for (int offset = 0; offset < chunk.capacity() && index < size; offset += RECORD_SIZE) {
+                visitor.visit(index++, chunk.getLong(offset), chunk.getInt(offset + Long.BYTES));
+            }
+        }
+
+        if (spillChannel == null) {
+            return;
+        }
+
+        flushSpill();
+        ByteBuffer block = spillScanBuffer;
+        long position = 0;
+        while (index < size) {
+            block.clear();
+            long remaining = (size - index) * RECORD_SIZE;
+            if (remaining < block.capacity()) {
+                block.limit((int) remaining);
+            }
+            readFully(block, position);
+            position += block.limit();
+            for (int offset = 0; offset < block.limit(); offset += RECORD_SIZE) {
+                visitor.visit(index++, block.getLong(offset), block.getInt(offset + Long.BYTES));
+            }
+        }
+    }
+
+    /**
+     * Get the number of records
+     *
+     * @return The number of appended records
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the memory budget
+     *
+     * @return The maximum number of bytes kept in direct memory
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Get the number of records stored in the temporary file
+     *
+     * @return The number of spilled records
+     */
+    public long getSpilledCount() {
+        return Math.max(0, size - memoryCapacity);
+    }
+
+    /**
+     * Checks if the store has been closed
+     *
+     * @return true if close() has been called, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Removes every record while keeping the direct buffers allocated, so that they can be
+     * reused by the next batch; the spill file, if any, is truncated
+     *
+     * @throws IllegalStateException if the store is closed
+     */
+    public void clear() {
+        checkOpen();
+        size = 0;
+
+        if (spillChannel != null) {
+            spillFlushed = 0;
+            spillWriteBuffer.clear();
+            try {
+                spillChannel.truncate(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error truncating spill file: " + spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * Drops the direct buffers and deletes the temporary file
+     * The native memory of the buffers is freed when the GC collects them; prefer clear()
+     * to reuse a store across batches.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Arrays.fill(chunks, null);
+        spillWriteBuffer = null;
+        spillReadBuffer = null;
+        spillScanBuffer = null;
+
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error releasing spill file: " + spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * Finds the buffer holding a record and stores its offset in locatedOffset
+     *
+     * @param index The record index
+     * @return The buffer holding the record
+     */
+    private ByteBuffer locate(long index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+
+        if (index < memoryCapacity) {
+            locatedOffset = (int) (index % chunkRecords) * RECORD_SIZE;
+            return chunks[(int) (index / chunkRecords)];
+        }
+
+        long spillIndex = index - memoryCapacity;
+        if (spillIndex >= spillFlushed) {
+            // Record is still in the write buffer
+            locatedOffset = (int) (spillIndex - spillFlushed) * RECORD_SIZE;
+            return spillWriteBuffer;
+        }
+
+        spillReadBuffer.clear();
+        readFully(spillReadBuffer, spillIndex * RECORD_SIZE);
+        locatedOffset = 0;
+        return spillReadBuffer;
+    }
+
+    private void openSpill() {
+        try {
+            spillFile = Files.createTempFile("results", ".bin");
+            spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error creating spill file", e);
+        }
+        spillWriteBuffer = ByteBuffer.allocateDirect(SPILL_BUFFER_RECORDS * RECORD_SIZE);
+        spillReadBuffer = ByteBuffer.allocateDirect(RECORD_SIZE);
+        spillScanBuffer = ByteBuffer.allocateDirect(SPILL_BUFFER_RECORDS * RECORD_SIZE);
+    }
+
+    private void flushSpill() {
+        spillWriteBuffer.flip();
+        long records = spillWriteBuffer.remaining() / RECORD_SIZE;
+        long position = spillFlushed * RECORD_SIZE;
+        try {
+            while (spillWriteBuffer.hasRemaining()) {
+                position += spillChannel.write(spillWriteBuffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing spill file: " + spillFile, e);
+        }
+        spillFlushed += records;
+        spillWriteBuffer.clear();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) {
+        try {
+            while (buffer.hasRemaining()) {
+                int read = spillChannel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of spill file at " + position);
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading spill file: " + spillFile, e);
+        }
+        buffer.flip();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Result store is closed");
+        }
+    }
+}
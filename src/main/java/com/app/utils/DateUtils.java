@@ -1,6 +1,7 @@
 package com.app.utils;
 
 import com.app.model.DateModel;
+import com.app.model.DateValue;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -65,4 +66,46 @@ public class DateUtils {
             return null;
         }
     }
+    
+    /**
+     * Formats an immutable DateValue to a string in DD/MM/YYYY format
+     * 
+     * @param dateValue The date value containing year, month, and day
+     * @return A formatted date string in DD/MM/YYYY format
+     */
+    public static String formatDateValue(DateValue dateValue) {
+        if (dateValue == null) {
+            return "";
+        }
+        
+        return String.format("%02d/%02d/%04d", dateValue.getDay(), dateValue.getMonth(), dateValue.getYear());
+    }
+    
+    /**
+     * Returns the shared DateValue for the current date
+     * 
+     * @return A DateValue representing the current date
+     */
+    public static DateValue getCurrentDateValue() {
+        return DateValue.of(LocalDate.now());
+    }
+    
+    /**
+     * Parses a date string in DD/MM/YYYY format to a shared DateValue
+     * 
+     * @param dateString The date string to parse
+     * @return A DateValue representing the parsed date, or null if parsing fails
+     */
+    public static DateValue parseDateValue(String dateString) {
+        if (dateString == null || dateString.trim().isEmpty()) {
+            return null;
+        }
+        
+        try {
+            LocalDate date = LocalDate.parse(dateString, FORMATTER);
+            return DateValue.of(date);
+        } catch (Exception e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package com.app.utils;
+
+import java.util.Map;
+
+/**
+ * Column of strings stored in fixed-width slots spread over contiguous char chunks
+ * Produced by the column operations of StringUtils. Each chunk holds getRowsPerChunk() rows;
+ * only the first getLength(row) characters of a slot are meaningful. Rare values longer than
+ * the slot width are kept aside as overflow rows: they are only available through get(row),
+ * and the buffer accessors getChunk, getOffset and getLength reject them.
+ */
+public final class StringColumn {
+
+    // Length marker of the rows kept in the overflow map
+    static final short OVERFLOW = -1;
+
+    private final char[][] chunks;
+    private final int slotWidth;
+    private final int rowsPerChunk;
+    private final short[] lengths;
+    private final Map<Integer, String> overflow;
+
+    /**
+     * Constructor with all fields, used by StringUtils
+     *
+     * @param chunks The slot buffers, rowsPerChunk rows each
+     * @param slotWidth The width of one slot
+     * @param rowsPerChunk The number of rows in each chunk
+     * @param lengths The length of the value in each slot, or OVERFLOW
+     * @param overflow The values that do not fit in their slot, by row
+     */
+    StringColumn(char[][] chunks, int slotWidth, int rowsPerChunk, short[] lengths, Map<Integer, String> overflow) {
+        this.chunks = chunks;
+        this.slotWidth = slotWidth;
+        this.rowsPerChunk = rowsPerChunk;
+        this.lengths = lengths;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Get the number of rows
+     *
+     * @return The number of values in the column
+     */
+    public int size() {
+        return lengths.length;
+    }
+
+    /**
+     * Get the slot width
+     *
+     * @return The number of chars reserved for each row
+     */
+    public int getSlotWidth() {
+        return slotWidth;
+    }
+
+    /**
+     * Get the number of rows stored in each chunk
+     *
+     * @return The number of rows per chunk
+     */
+    public int getRowsPerChunk() {
+        return rowsPerChunk;
+    }
+
+    /**
+     * Checks if a row did not fit in its slot
+     *
+     * @param row The row index
+     * @return true if the value is only available through get(row), false otherwise
+     */
+    public boolean isOverflow(int row) {
+        return lengths[row] == OVERFLOW;
+    }
+
+    /**
+     * Get the chunk holding the slot of a row, without copying it
+     * Meant for writers that stream the column out; the chunk must not be modified.
+     *
+     * @param row The row index
+     * @return The chunk holding the slot of the row
+     * @throws IllegalStateException if the row is an overflow row
+     */
+    public char[] getChunk(int row) {
+        checkInSlot(row);
+        return chunks[row / rowsPerChunk];
+    }
+
+    /**
+     * Get the offset of a row in its chunk
+     *
+     * @param row The row index
+     * @return The index of the first char of the row in getChunk(row)
+     * @throws IllegalStateException if the row is an overflow row
+     */
+    public int getOffset(int row) {
+        checkInSlot(row);
+        return (row % rowsPerChunk) * slotWidth;
+    }
+
+    /**
+     * Get the length of a row in its slot
+     *
+     * @param row The row index
+     * @return The number of meaningful chars in the slot of the row
+     * @throws IllegalStateException if the row is an overflow row
+     */
+    public int getLength(int row) {
+        checkInSlot(row);
+        return lengths[row];
+    }
+
+    /**
+     * Get the value of a row as a String
+     *
+     * @param row The row index
+     * @return A String holding the value of the row
+     */
+    public String get(int row) {
+        if (isOverflow(row)) {
+            return overflow.get(row);
+        }
+        return new String(chunks[row / rowsPerChunk], (row % rowsPerChunk) * slotWidth, lengths[row]);
+    }
+
+    private void checkInSlot(int row) {
+        if (isOverflow(row)) {
+            throw new IllegalStateException("Row " + row + " does not fit in its slot, use get(row)");
+        }
+    }
+}
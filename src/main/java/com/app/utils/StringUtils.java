@@ -1,5 +1,11 @@
 package com.app.utils;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
 /**
  * Utility class for string operations
  * Migrated from COBOL STRING_UTILS module
@@ -10,6 +16,12 @@ public class StringUtils {
     public static final int MAX_STRING_LENGTH = 1000;
     public static final char DEFAULT_PADDING = ' ';
     
+    // Columns with at least this many rows are processed on all cores
+    public static final int PARALLEL_THRESHOLD = 64 * 1024;
+    
+    // Size of one buffer chunk of a StringColumn, in chars
+    private static final int COLUMN_CHUNK_CHARS = 1024 * 1024;
+    
     /**
      * Generates a greeting message for the given username
      * This method replicates the functionality of the COBOL STRING_UTILS program
@@ -81,4 +93,163 @@ public class StringUtils {
         
         return sb.toString();
     }
+    
+    /**
+     * Pads every value of a column with the default padding character
+     * 
+     * @param values The column values, null values are treated as empty strings
+     * @param length The desired length, also used as slot width
+     * @param padLeft If true, pad on the left; otherwise pad on the right
+     * @return The padded column
+     */
+    public static StringColumn padColumn(List<? extends CharSequence> values, int length, boolean padLeft) {
+        return padColumn(values, length, DEFAULT_PADDING, padLeft);
+    }
+    
+    /**
+     * Pads every value of a column, with the same result as pad for each value
+     * Values already longer than the length are kept as overflow rows, as pad does not truncate.
+     * 
+     * @param values The column values, null values are treated as empty strings
+     * @param length The desired length, also used as slot width
+     * @param padChar The character to use for padding
+     * @param padLeft If true, pad on the left; otherwise pad on the right
+     * @return The padded column
+     */
+    public static StringColumn padColumn(List<? extends CharSequence> values, int length, char padChar, boolean padLeft) {
+        return transformColumn(values, false, false, length, padChar, padLeft, length);
+    }
+    
+    /**
+     * Trims every value of a column, with the same result as String.trim for each value
+     * 
+     * @param values The column values, null values are treated as empty strings
+     * @param slotWidth The width of a slot, longer values are kept as overflow rows
+     * @return The trimmed column
+     */
+    public static StringColumn trimColumn(List<? extends CharSequence> values, int slotWidth) {
+        return transformColumn(values, false, true, 0, DEFAULT_PADDING, false, slotWidth);
+    }
+    
+    /**
+     * Truncates every value of a column to MAX_STRING_LENGTH
+     * 
+     * @param values The column values, null values are treated as empty strings
+     * @param slotWidth The width of a slot, longer values are kept as overflow rows
+     * @return The truncated column
+     */
+    public static StringColumn truncateColumn(List<? extends CharSequence> values, int slotWidth) {
+        return transformColumn(values, true, false, 0, DEFAULT_PADDING, false, slotWidth);
+    }
+    
+    /**
+     * Truncates every value of a column to MAX_STRING_LENGTH, trims it, then pads it
+     * Equivalent to pad(value.substring(0, MAX_STRING_LENGTH).trim(), length, padChar, padLeft)
+     * 
+     * @param values The column values, null values are treated as empty strings
+     * @param length The desired length, also used as slot width
+     * @param padChar The character to use for padding
+     * @param padLeft If true, pad on the left; otherwise pad on the right
+     * @return The formatted column
+     */
+    public static StringColumn formatColumn(List<? extends CharSequence> values, int length, char padChar, boolean padLeft) {
+        return transformColumn(values, true, true, length, padChar, padLeft, length);
+    }
+    
+    /**
+     * Applies truncation, trimming and padding to a column in a single pass, in parallel
+     * for large columns. Values are copied into fixed-width slots of chunked buffers; the
+     * rare values longer than a slot are kept as overflow Strings.
+     */
+    private static StringColumn transformColumn(List<? extends CharSequence> values, boolean truncate,
+            boolean trim, int length, char padChar, boolean padLeft, int slotWidth) {
+        if (slotWidth > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Slot width too large: " + slotWidth);
+        }
+        int width = Math.max(0, slotWidth);
+        
+        // One copy up front, so that rows are read in constant time whatever the List implementation
+        CharSequence[] rows = values == null ? new CharSequence[0] : values.toArray(new CharSequence[0]);
+        short[] lengths = new short[rows.length];
+        Map<Integer, String> overflow = new ConcurrentHashMap<>();
+        
+        int rowsPerChunk = Math.max(1, COLUMN_CHUNK_CHARS / Math.max(1, width));
+        char[][] chunks = new char[(rows.length + rowsPerChunk - 1) / rowsPerChunk][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new char[Math.min(rowsPerChunk, rows.length - i * rowsPerChunk) * width];
+        }
+        
+        rowStream(rows.length).forEach(row -> {
+            CharSequence value = rows[row];
+            int end = truncatedEnd(value, truncate);
+            int start = contentStart(value, end, trim);
+            int contentLength = contentEnd(value, start, end, trim) - start;
+            int padLength = Math.max(0, length - contentLength);
+            
+            char[] buffer;
+            int offset;
+            if (contentLength + padLength <= width) {
+                buffer = chunks[row / rowsPerChunk];
+                offset = (row % rowsPerChunk) * width;
+                lengths[row] = (short) (contentLength + padLength);
+            } else {
+                buffer = new char[contentLength + padLength];
+                offset = 0;
+                lengths[row] = StringColumn.OVERFLOW;
+            }
+            
+            if (padLeft) {
+                Arrays.fill(buffer, offset, offset + padLength, padChar);
+                copy(value, start, contentLength, buffer, offset + padLength);
+            } else {
+                copy(value, start, contentLength, buffer, offset);
+                Arrays.fill(buffer, offset + contentLength, offset + contentLength + padLength, padChar);
+            }
+            
+            if (lengths[row] == StringColumn.OVERFLOW) {
+                overflow.put(row, new String(buffer));
+            }
+        });
+        
+        return new StringColumn(chunks, width, rowsPerChunk, lengths, overflow);
+    }
+    
+    private static IntStream rowStream(int rows) {
+        IntStream stream = IntStream.range(0, rows);
+        return rows >= PARALLEL_THRESHOLD ? stream.parallel() : stream;
+    }
+    
+    private static int truncatedEnd(CharSequence value, boolean truncate) {
+        if (value == null) {
+            return 0;
+        }
+        int end = value.length();
+        return truncate && end > MAX_STRING_LENGTH ? MAX_STRING_LENGTH : end;
+    }
+    
+    private static int contentStart(CharSequence value, int end, boolean trim) {
+        int start = 0;
+        // Same whitespace definition as String.trim
+        while (trim && start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+    
+    private static int contentEnd(CharSequence value, int start, int end, boolean trim) {
+        while (trim && end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+    
+    private static void copy(CharSequence value, int start, int count, char[] buffer, int offset) {
+        if (value instanceof String) {
+            ((String) value).getChars(start, start + count, buffer, offset);
+        } else {
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = value.charAt(start + i);
+            }
+        }
+    }
 }
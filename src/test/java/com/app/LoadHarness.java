@@ -0,0 +1,469 @@
+package com.app;
+
+import com.app.utils.DateUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+/**
+ * Load and soak harness driving the Main flow end to end with synthetic input
+ * Logging goes through the shipped log4j2.xml, as in production; note that its File appender
+ * writes app.log in the working directory.
+ * Not a unit test: run it on demand, for example before a release:
+ *
+ *   mvn test-compile exec:java -Dexec.mainClass=com.app.LoadHarness -Dexec.classpathScope=test \
+ *       -Dload.threads=8 -Dload.duration=300
+ *
+ * Settings (system properties):
+ *   load.threads         Number of worker threads (default: available processors)
+ *   load.duration        Measured duration in seconds (default: 30)
+ *   load.warmup          Warm-up duration in seconds, not measured (default: 5)
+ *   load.seed            Seed of the input generator (default: 42)
+ *   load.interval        Seconds between two progress snapshots (default: 10)
+ *   load.logLevel        Log4j root level override, e.g. OFF to leave logging out of the
+ *                        measure (default: the level of the shipped log4j2.xml)
+ *   load.minThroughput   Fail if fewer operations per second are reached (optional)
+ *   load.maxP99Micros    Fail if the p99 latency is higher, in microseconds (optional)
+ */
+public class LoadHarness {
+
+    // Share of each kind of synthetic input, in percent
+    private static final int OUT_OF_RANGE_PERCENT = 10;
+    private static final int MALFORMED_PERCENT = 5;
+    private static final int INVALID_DATE_PERCENT = 10;
+    private static final int NO_FILENAME_PERCENT = 1;
+
+    private static final String[] MALFORMED_NUMBERS = {
+        "", "abc", "12,34", "1.2.3", "--5", "1e", " 42", "NaN", "12 34", "0x1F"
+    };
+    private static final String[] INVALID_DATES = {
+        "", "32/01/2023", "15/13/2023", "00/05/2023", "2023-05-15", "15/05/23", "15-05-2023", "xx/yy/zzzz"
+    };
+
+    /**
+     * Runs the harness and exits with status 1 if a threshold is missed or an operation failed
+     *
+     * @param args Unused, settings are read from system properties
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("load.threads", Runtime.getRuntime().availableProcessors());
+        long durationNanos = Long.getLong("load.duration", 30) * 1_000_000_000L;
+        long warmupNanos = Long.getLong("load.warmup", 5) * 1_000_000_000L;
+        long seed = Long.getLong("load.seed", 42);
+        long intervalNanos = Math.max(1, Long.getLong("load.interval", 10)) * 1_000_000_000L;
+        
+        // The test classpath holds a quiet log4j2-test.xml, measure with the shipped configuration instead
+        Configurator.reconfigure(LoadHarness.class.getResource("/log4j2.xml").toURI());
+        String logLevel = System.getProperty("load.logLevel");
+        if (logLevel != null) {
+            Configurator.setRootLevel(Level.toLevel(logLevel));
+        }
+
+        Path workDir = Files.createTempDirectory("load-harness");
+        GcMonitor gcMonitor = new GcMonitor();
+
+        long start = System.nanoTime();
+        long measureStart = start + warmupNanos;
+        long measureEnd = measureStart + durationNanos;
+
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(i, seed + i, workDir, measureStart, measureEnd, gcMonitor);
+            workers.add(worker);
+            worker.start();
+        }
+        printSnapshots(System.out, workers, gcMonitor, measureStart, measureEnd, intervalNanos);
+        for (Worker worker : workers) {
+            worker.join();
+        }
+        gcMonitor.close();
+
+        Report report = new Report(workers, gcMonitor, durationNanos);
+        report.print(System.out, threads);
+
+        deleteRecursively(workDir);
+        System.exit(report.check(System.out) ? 0 : 1);
+    }
+
+    /**
+     * Worker thread running the Main flow in a loop until the end of the measured phase
+     */
+    private static class Worker extends Thread {
+        private final SplittableRandom random;
+        private final String filename;
+        private final long measureStart;
+        private final long measureEnd;
+        private final GcMonitor gcMonitor;
+        private final PrintStream console = new PrintStream(OutputStream.nullOutputStream());
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        // Latencies since the last snapshot, shared with the main thread
+        final LatencyHistogram interval = new LatencyHistogram();
+        long allocatedBytes;
+        long outOfRangeInputs;
+        long malformedInputs;
+        long invalidDates;
+        long fileErrors;
+        long failures;
+
+        Worker(int id, long seed, Path workDir, long measureStart, long measureEnd, GcMonitor gcMonitor) {
+            super("load-worker-" + id);
+            this.random = new SplittableRandom(seed);
+            this.filename = workDir.resolve("output-" + id + ".txt").toString();
+            this.measureStart = measureStart;
+            this.measureEnd = measureEnd;
+            this.gcMonitor = gcMonitor;
+        }
+
+        @Override
+        public void run() {
+            boolean measuring = false;
+            long allocatedAtStart = 0;
+
+            while (true) {
+                long begin = System.nanoTime();
+                if (begin >= measureEnd) {
+                    break;
+                }
+                if (!measuring && begin >= measureStart) {
+                    measuring = true;
+                    allocatedAtStart = allocatedBytes();
+                    gcMonitor.start();
+                }
+
+                String num1 = nextNumber(measuring);
+                String num2 = nextNumber(measuring);
+                String date = nextDate();
+                String target = random.nextInt(100) < NO_FILENAME_PERCENT ? "" : filename;
+
+                try {
+                    int status = Main.run(new Scanner(num1 + "\n" + num2 + "\n"), console, target);
+                    boolean dateValid = DateUtils.parseDate(date) != null;
+                    if (measuring) {
+                        long latency = System.nanoTime() - begin;
+                        histogram.record(latency);
+                        synchronized (interval) {
+                            interval.record(latency);
+                        }
+                        if (!dateValid) invalidDates++;
+                        if (status != 0 && !target.isEmpty()) fileErrors++;
+                    }
+                } catch (RuntimeException e) {
+                    if (measuring) failures++;
+                }
+            }
+
+            if (measuring) {
+                allocatedBytes = allocatedBytes() - allocatedAtStart;
+            }
+        }
+
+        private String nextNumber(boolean measuring) {
+            int kind = random.nextInt(100);
+            if (kind < OUT_OF_RANGE_PERCENT) {
+                if (measuring) outOfRangeInputs++;
+                long magnitude = 1_000_000L + random.nextLong(1_000_000_000L);
+                return (random.nextBoolean() ? "" : "-") + magnitude + "." + random.nextInt(100);
+            }
+            if (kind < OUT_OF_RANGE_PERCENT + MALFORMED_PERCENT) {
+                if (measuring) malformedInputs++;
+                return MALFORMED_NUMBERS[random.nextInt(MALFORMED_NUMBERS.length)];
+            }
+            // Regular amount with up to 3 decimals, so that rounding is exercised
+            long cents = random.nextLong(-99_999_999L, 100_000_000L);
+            return String.format("%s%d.%02d%d", cents < 0 ? "-" : "", Math.abs(cents) / 100,
+                    Math.abs(cents) % 100, random.nextInt(10));
+        }
+
+        private String nextDate() {
+            if (random.nextInt(100) < INVALID_DATE_PERCENT) {
+                return INVALID_DATES[random.nextInt(INVALID_DATES.length)];
+            }
+            return String.format("%02d/%02d/%04d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                    1990 + random.nextInt(50));
+        }
+
+        private static long allocatedBytes() {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                return ((com.sun.management.ThreadMXBean) bean)
+                        .getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Collects GC events that happen during the measured phase
+     */
+    private static class GcMonitor implements NotificationListener {
+        private final List<NotificationEmitter> emitters = new ArrayList<>();
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMillis = new AtomicLong();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final AtomicLong heapAfterGc = new AtomicLong();
+        private final Set<String> heapPools = new HashSet<>();
+        private volatile boolean started;
+
+        GcMonitor() {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    heapPools.add(pool.getName());
+                }
+            }
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (bean instanceof NotificationEmitter) {
+                    NotificationEmitter emitter = (NotificationEmitter) bean;
+                    emitter.addNotificationListener(this, null, null);
+                    emitters.add(emitter);
+                }
+            }
+        }
+
+        void start() {
+            started = true;
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!started || !GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                    .equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long duration = info.getGcInfo().getDuration();
+            long heapUsed = 0;
+            for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) {
+                    heapUsed += pool.getValue().getUsed();
+                }
+            }
+            heapAfterGc.set(heapUsed);
+            count.incrementAndGet();
+            totalMillis.addAndGet(duration);
+            maxMillis.accumulateAndGet(duration, Math::max);
+        }
+
+        void close() {
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(this);
+                } catch (ListenerNotFoundException e) {
+                    // Already removed
+                }
+            }
+        }
+    }
+
+    /**
+     * Log-linear latency histogram with about 3% precision and a fixed footprint
+     */
+    static class LatencyHistogram {
+        private static final int SUB_BITS = 5;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+
+        private final long[] counts = new long[64 << SUB_BITS];
+        private long total;
+        private long max;
+
+        void record(long nanos) {
+            long value = Math.max(0, nanos);
+            int index;
+            if (value < SUB_COUNT) {
+                index = (int) value;
+            } else {
+                int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+                index = ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & (SUB_COUNT - 1));
+            }
+            counts[index]++;
+            total++;
+            max = Math.max(max, value);
+        }
+
+        void add(LatencyHistogram other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            total += other.total;
+            max = Math.max(max, other.max);
+        }
+
+        void reset() {
+            Arrays.fill(counts, 0);
+            total = 0;
+            max = 0;
+        }
+
+        long getTotal() {
+            return total;
+        }
+
+        long getMax() {
+            return max;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given percentile
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The latency in nanoseconds
+         */
+        long percentile(double percentile) {
+            long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    int bucket = i >>> SUB_BITS;
+                    int sub = i & (SUB_COUNT - 1);
+                    long upper = bucket == 0 ? sub : ((long) (SUB_COUNT + sub + 1) << (bucket - 1)) - 1;
+                    return Math.min(upper, max);
+                }
+            }
+            return max;
+        }
+    }
+
+    /**
+     * Aggregated results of all workers
+     */
+    private static class Report {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final GcMonitor gcMonitor;
+        private final double seconds;
+        private long allocatedBytes;
+        private long outOfRangeInputs;
+        private long malformedInputs;
+        private long invalidDates;
+        private long fileErrors;
+        private long failures;
+
+        Report(List<Worker> workers, GcMonitor gcMonitor, long durationNanos) {
+            this.gcMonitor = gcMonitor;
+            this.seconds = durationNanos / 1e9;
+            for (Worker worker : workers) {
+                histogram.add(worker.histogram);
+                allocatedBytes += worker.allocatedBytes;
+                outOfRangeInputs += worker.outOfRangeInputs;
+                malformedInputs += worker.malformedInputs;
+                invalidDates += worker.invalidDates;
+                fileErrors += worker.fileErrors;
+                failures += worker.failures;
+            }
+        }
+
+        double throughput() {
+            return histogram.getTotal() / seconds;
+        }
+
+        void print(PrintStream out, int threads) {
+            out.println("=== Load harness report ===");
+            out.printf("Threads:             %d%n", threads);
+            out.printf("Duration:            %.1f s%n", seconds);
+            out.printf("Operations:          %d%n", histogram.getTotal());
+            out.printf("Throughput:          %.1f ops/s%n", throughput());
+            out.printf("Latency p50:         %.1f us%n", histogram.percentile(50) / 1e3);
+            out.printf("Latency p99:         %.1f us%n", histogram.percentile(99) / 1e3);
+            out.printf("Latency p99.9:       %.1f us%n", histogram.percentile(99.9) / 1e3);
+            out.printf("Latency max:         %.1f us%n", histogram.getMax() / 1e3);
+            out.printf("Allocation rate:     %.1f MB/s%n", allocatedBytes / seconds / (1024 * 1024));
+            out.printf("Allocation per op:   %d bytes%n",
+                    histogram.getTotal() == 0 ? 0 : allocatedBytes / histogram.getTotal());
+            out.printf("GC events:           %d%n", gcMonitor.count.get());
+            out.printf("GC time:             %d ms (max %d ms)%n", gcMonitor.totalMillis.get(), gcMonitor.maxMillis.get());
+            out.printf("Out-of-range inputs: %d%n", outOfRangeInputs);
+            out.printf("Malformed inputs:    %d%n", malformedInputs);
+            out.printf("Invalid dates:       %d%n", invalidDates);
+            out.printf("File errors:         %d%n", fileErrors);
+            out.printf("Failures:            %d%n", failures);
+        }
+
+        boolean check(PrintStream out) {
+            boolean ok = true;
+            if (failures > 0 || fileErrors > 0) {
+                out.println("FAILED: operations ended with errors");
+                ok = false;
+            }
+            String minThroughput = System.getProperty("load.minThroughput");
+            if (minThroughput != null && throughput() < Double.parseDouble(minThroughput)) {
+                out.println("FAILED: throughput below " + minThroughput + " ops/s");
+                ok = false;
+            }
+            String maxP99 = System.getProperty("load.maxP99Micros");
+            if (maxP99 != null && histogram.percentile(99) / 1e3 > Double.parseDouble(maxP99)) {
+                out.println("FAILED: p99 latency above " + maxP99 + " us");
+                ok = false;
+            }
+            return ok;
+        }
+    }
+
+    /**
+     * Prints a progress line every interval of the measured phase, so that a slow decay
+     * of throughput or latency, or a growing heap, shows up during long soak runs
+     */
+    private static void printSnapshots(PrintStream out, List<Worker> workers, GcMonitor gcMonitor,
+            long measureStart, long measureEnd, long intervalNanos) throws InterruptedException {
+        LatencyHistogram merged = new LatencyHistogram();
+        long previousTime = measureStart;
+        long previousGcCount = 0;
+
+        for (long next = measureStart + intervalNanos; next <= measureEnd; next += intervalNanos) {
+            long sleepNanos = next - System.nanoTime();
+            if (sleepNanos > 0) {
+                Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+            }
+
+            merged.reset();
+            for (Worker worker : workers) {
+                synchronized (worker.interval) {
+                    merged.add(worker.interval);
+                    worker.interval.reset();
+                }
+            }
+            long now = System.nanoTime();
+            long gcCount = gcMonitor.count.get();
+
+            out.printf("[%6.0f s] %10.1f ops/s  p99 %9.1f us  GC events %4d  heap after GC %7.1f MB%n",
+                    (now - measureStart) / 1e9, merged.getTotal() / ((now - previousTime) / 1e9),
+                    merged.percentile(99) / 1e3, gcCount - previousGcCount,
+                    gcMonitor.heapAfterGc.get() / (1024.0 * 1024));
+            previousTime = now;
+            previousGcCount = gcCount;
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+}
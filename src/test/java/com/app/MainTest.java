@@ -0,0 +1,50 @@
+package com.app;
+
+import com.app.modules.FileHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Main application flow
+ */
+public class MainTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    public void testRun() throws IOException {
+        Path outputFile = tempDir.resolve("output.txt");
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        
+        int status = Main.run(new Scanner("123.45\n67.89\n"), new PrintStream(console), outputFile.toString());
+        
+        assertEquals(FileHandler.FILE_STATUS_OK, status, "Run should write the result file");
+        assertTrue(Files.readString(outputFile, Charset.defaultCharset()).endsWith("191.34"),
+                "Result file should hold the sum");
+        assertTrue(console.toString().contains("Bonjour, Utilisateur !"), "Run should print the greeting");
+    }
+    
+    @Test
+    public void testRunWithInvalidInput() throws IOException {
+        Path outputFile = tempDir.resolve("output.txt");
+        PrintStream console = new PrintStream(new ByteArrayOutputStream());
+        
+        // Out-of-range first number is clamped, malformed second number counts as zero
+        int status = Main.run(new Scanner("5000000\nabc\n"), console, outputFile.toString());
+        assertEquals(FileHandler.FILE_STATUS_OK, status, "Run should write the result file");
+        assertTrue(Files.readString(outputFile, Charset.defaultCharset()).endsWith("999999.99"),
+                "Result should be clamped to MAX_VALUE");
+        
+        status = Main.run(new Scanner("1\n2\n"), console, "");
+        assertEquals(FileHandler.FILE_STATUS_NONAME, status, "Run should report an empty filename");
+    }
+}
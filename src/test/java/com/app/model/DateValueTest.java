@@ -0,0 +1,92 @@
+package com.app.model;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DateValue and DateValuePool
+ */
+public class DateValueTest {
+    
+    @Test
+    public void testInterning() {
+        // Dates inside the default window share one instance
+        DateValue first = DateValue.of(2023, 5, 15);
+        DateValue second = DateValue.of(LocalDate.of(2023, 5, 15));
+        assertSame(first, second, "Repeated dates should share one instance");
+        
+        // Conversion from the mutable model hits the same pool
+        assertSame(first, DateValue.from(new DateModel(2023, 5, 15)),
+                "Conversion from DateModel should return the shared instance");
+        assertNull(DateValue.from(null), "Conversion from null should return null");
+        
+        // Dates outside the window are still valid but not shared
+        DateValuePool pool = new DateValuePool(2000, 2010);
+        DateValue outside = pool.intern(2023, 5, 15);
+        assertEquals(first, outside, "Dates outside the window should still be equal");
+        assertNotSame(outside, pool.intern(2023, 5, 15),
+                "Dates outside the window should not be interned");
+        assertSame(pool.intern(2005, 1, 31), pool.intern(2005, 1, 31),
+                "Dates inside a custom window should be interned");
+    }
+    
+    @Test
+    public void testEqualsHashCodeAndCompare() {
+        DateValuePool pool = new DateValuePool(2000, 2000);
+        DateValue value = pool.intern(2023, 5, 15);
+        DateValue same = new DateValuePool(2000, 2000).intern(2023, 5, 15);
+        
+        assertEquals(value, same, "Equal fields should give equal values");
+        assertEquals(value.hashCode(), same.hashCode(), "Equal values should have equal hash codes");
+        assertEquals(0, value.compareTo(same), "Equal values should compare as zero");
+        
+        assertTrue(DateValue.of(2023, 5, 14).compareTo(value) < 0, "Earlier day should compare lower");
+        assertTrue(DateValue.of(2023, 6, 1).compareTo(value) > 0, "Later month should compare higher");
+        assertTrue(DateValue.of(2022, 12, 31).compareTo(value) < 0, "Earlier year should compare lower");
+    }
+    
+    @Test
+    public void testConversions() {
+        DateValue value = DateValue.of(2023, 5, 15);
+        
+        assertEquals(20230515, value.toPackedInt(), "Packed form should be YYYYMMDD");
+        assertSame(value, DateValue.fromPackedInt(20230515), "Unpacking should return the shared instance");
+        assertEquals(LocalDate.of(2023, 5, 15), value.toLocalDate(), "LocalDate conversion should match");
+        assertEquals("2023-05-15", value.toString(), "toString should use ISO format");
+        
+        DateModel model = value.toDateModel();
+        assertEquals(2023, model.getYear(), "Year should be copied to DateModel");
+        assertEquals(5, model.getMonth(), "Month should be copied to DateModel");
+        assertEquals(15, model.getDay(), "Day should be copied to DateModel");
+    }
+    
+    @Test
+    public void testInvalidDates() {
+        assertThrows(IllegalArgumentException.class, () -> DateValue.of(2023, 2, 30),
+                "Invalid day should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> DateValue.of(2023, 13, 1),
+                "Invalid month should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> DateValue.of(10000, 1, 1),
+                "Year beyond 4 digits should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> DateValue.from(new DateModel()),
+                "Uninitialized DateModel should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new DateValuePool(2010, 2000),
+                "Empty year window should be rejected");
+    }
+    
+    @Test
+    public void testDefaultPoolProperties() {
+        DateValuePool pool = DateValuePool.createDefault("2000", "2010");
+        assertEquals(2000, pool.getMinYear(), "Valid minYear property should be used");
+        assertEquals(2010, pool.getMaxYear(), "Valid maxYear property should be used");
+        
+        // Invalid settings fall back to the default window instead of failing
+        pool = DateValuePool.createDefault("2100", null);
+        assertEquals(DateValuePool.DEFAULT_MIN_YEAR, pool.getMinYear(), "Empty window should fall back to default");
+        assertEquals(DateValuePool.DEFAULT_MAX_YEAR, pool.getMaxYear(), "Empty window should fall back to default");
+        
+        pool = DateValuePool.createDefault("abc", "2010");
+        assertEquals(DateValuePool.DEFAULT_MIN_YEAR, pool.getMinYear(), "Malformed value should fall back to default");
+    }
+}
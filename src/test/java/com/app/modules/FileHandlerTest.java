@@ -1,9 +1,11 @@
 package com.app.modules;
 
+import com.app.model.DateValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,6 +56,34 @@ public class FileHandlerTest {
                 "Writing with empty filename should return NONAME status");
     }
     
+    @Test
+    public void testWriteResults() throws IOException {
+        Path tempFile = tempDir.resolve("results.txt");
+        
+        try (OffHeapResultStore results = new OffHeapResultStore(OffHeapResultStore.RECORD_SIZE)) {
+            results.append(new BigDecimal("191.34"), DateValue.of(2023, 5, 15));
+            results.append(new BigDecimal("-5"), null);
+            
+            int status = FileHandler.writeResults(tempFile.toString(), results);
+            assertEquals(FileHandler.FILE_STATUS_OK, status,
+                    "Writing results should return OK status");
+            assertEquals(String.format("191.34;15/05/2023%n-5.00;%n"), Files.readString(tempFile),
+                    "Each record should be written as amount;date");
+            
+            assertEquals(FileHandler.FILE_STATUS_NONAME, FileHandler.writeResults("", results),
+                    "Writing with empty filename should return NONAME status");
+        }
+        
+        OffHeapResultStore closedResults = new OffHeapResultStore();
+        closedResults.append(BigDecimal.ONE, null);
+        closedResults.close();
+        assertEquals(FileHandler.FILE_STATUS_ERROR, FileHandler.writeResults(tempFile.toString(), closedResults),
+                "Writing a closed store should return ERROR status");
+        
+        assertEquals(FileHandler.FILE_STATUS_ERROR, FileHandler.writeResults(tempFile.toString(), null),
+                "Writing a null store should return ERROR status");
+    }
+    
     @Test
     public void testFileExists() throws IOException {
         // Create a temporary file
@@ -0,0 +1,121 @@
+package com.app.modules;
+
+import com.app.model.DateValue;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for OffHeapResultStore module
+ */
+public class OffHeapResultStoreTest {
+    
+    @Test
+    public void testAppendAndRead() {
+        try (OffHeapResultStore store = new OffHeapResultStore()) {
+            DateValue date = DateValue.of(2023, 5, 15);
+            
+            assertEquals(0, store.append(new BigDecimal("191.34"), date), "First record should have index 0");
+            assertEquals(1, store.append(new BigDecimal("-0.005"), null), "Second record should have index 1");
+            assertEquals(2, store.append(null, date), "Third record should have index 2");
+            assertEquals(3, store.size(), "Store should hold three records");
+            
+            assertEquals(new BigDecimal("191.34"), store.getAmount(0), "Amount should be read back");
+            assertSame(date, store.getDate(0), "Date should be read back as the shared instance");
+            assertEquals(new BigDecimal("-0.01"), store.getAmount(1), "Amount should be rounded HALF_UP");
+            assertNull(store.getDate(1), "Missing date should be read back as null");
+            assertEquals(new BigDecimal("0.00"), store.getAmount(2), "Null amount should be stored as zero");
+            assertEquals(0, store.getSpilledCount(), "Nothing should be spilled under the default budget");
+            
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getAmount(3),
+                    "Reading past the end should fail");
+            assertThrows(IllegalArgumentException.class, () -> store.append(1L, 20231301),
+                    "Invalid packed date should be rejected on append");
+            assertEquals(3, store.size(), "Rejected record should not be stored");
+        }
+    }
+    
+    @Test
+    public void testSpillToDisk() {
+        // Budget of 100 records, the rest goes to the temporary file
+        int count = 50_000;
+        try (OffHeapResultStore store = new OffHeapResultStore(100 * OffHeapResultStore.RECORD_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                store.append(i * 3L, 20230000 + (i % 12 + 1) * 100 + 1);
+            }
+            assertEquals(count, store.size(), "Store should hold every record");
+            assertEquals(count - 100, store.getSpilledCount(), "Records past the budget should be spilled");
+            
+            // Random access across memory, flushed file and pending write buffer
+            for (long index : new long[] {0, 99, 100, 12_345, count - 1}) {
+                assertEquals(index * 3, store.getScaledAmount(index), "Amount should match at " + index);
+                assertEquals(20230000 + (index % 12 + 1) * 100 + 1, store.getPackedDate(index),
+                        "Date should match at " + index);
+            }
+            
+            // Sequential read-back visits every record in order
+            long[] visited = new long[1];
+            store.forEach((index, scaledAmount, packedDate) -> {
+                assertEquals(visited[0]++, index, "Records should be visited in order");
+                assertEquals(index * 3, scaledAmount, "Amount should match at " + index);
+            });
+            assertEquals(count, visited[0], "Every record should be visited");
+            
+            // Repeated read-back gives the same result
+            long[] total = new long[1];
+            store.forEach((index, scaledAmount, packedDate) -> total[0]++);
+            assertEquals(count, total[0], "Second read-back should visit every record");
+            
+            // Appending after a sequential read keeps the store consistent
+            store.append(7L, OffHeapResultStore.NO_DATE);
+            assertEquals(7L, store.getScaledAmount(count), "Record appended after read-back should be readable");
+        }
+    }
+    
+    @Test
+    public void testClear() {
+        // Budget of 10 records, so that both memory and spill file are reused
+        try (OffHeapResultStore store = new OffHeapResultStore(10 * OffHeapResultStore.RECORD_SIZE)) {
+            for (int i = 0; i < 20_000; i++) {
+                store.append(i, OffHeapResultStore.NO_DATE);
+            }
+            store.clear();
+            assertEquals(0, store.size(), "Cleared store should be empty");
+            assertEquals(0, store.getSpilledCount(), "Cleared store should have no spilled records");
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getScaledAmount(0),
+                    "Records should not be readable after clear");
+            
+            for (int i = 0; i < 15_000; i++) {
+                store.append(100L + i, 20230515);
+            }
+            assertEquals(15_000, store.size(), "Store should hold the new batch only");
+            assertEquals(14_990, store.getSpilledCount(), "New batch should spill past the budget");
+            assertEquals(100L, store.getScaledAmount(0), "Memory record should hold the new batch");
+            assertEquals(5100L, store.getScaledAmount(5000), "Flushed record should hold the new batch");
+            assertEquals(15_099L, store.getScaledAmount(14_999), "Pending record should hold the new batch");
+            
+            long[] visited = new long[1];
+            store.forEach((index, scaledAmount, packedDate) -> {
+                assertEquals(100L + index, scaledAmount, "Read-back should only see the new batch");
+                visited[0]++;
+            });
+            assertEquals(15_000, visited[0], "Read-back should visit the new batch only");
+        }
+    }
+    
+    @Test
+    public void testClose() {
+        OffHeapResultStore store = new OffHeapResultStore(0);
+        store.append(1L, OffHeapResultStore.NO_DATE);
+        store.close();
+        store.close();
+        
+        assertThrows(IllegalStateException.class, () -> store.append(1L, OffHeapResultStore.NO_DATE),
+                "Appending to a closed store should fail");
+        assertThrows(IllegalStateException.class, store::clear, "Clearing a closed store should fail");
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapResultStore(-1),
+                "Negative budget should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapResultStore(Long.MAX_VALUE),
+                "Budget needing too many chunks should be rejected");
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.utils;
 
 import com.app.model.DateModel;
+import com.app.model.DateValue;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,4 +67,29 @@ public class DateUtilsTest {
         assertNull(DateUtils.parseDate(""),
                 "parseDate should return null for empty input");
     }
+    
+    @Test
+    public void testDateValue() {
+        // Parsing the same string twice returns the shared instance
+        DateValue dateValue = DateUtils.parseDateValue("15/05/2023");
+        assertNotNull(dateValue, "parseDateValue should not return null for valid input");
+        assertSame(dateValue, DateUtils.parseDateValue("15/05/2023"),
+                "parseDateValue should return the interned instance");
+        assertEquals("15/05/2023", DateUtils.formatDateValue(dateValue),
+                "DateValue should be formatted as DD/MM/YYYY");
+        
+        // Intern from the same date read so that the check cannot fail around midnight
+        DateValue currentDate = DateUtils.getCurrentDateValue();
+        assertTrue(currentDate.getYear() >= 2023, "getCurrentDateValue should return the current date");
+        assertSame(DateValue.of(currentDate.toLocalDate()), currentDate,
+                "getCurrentDateValue should return the interned instance");
+        
+        // Test with invalid input
+        assertNull(DateUtils.parseDateValue("invalid-date"),
+                "parseDateValue should return null for invalid input");
+        assertNull(DateUtils.parseDateValue(null),
+                "parseDateValue should return null for null input");
+        assertEquals("", DateUtils.formatDateValue(null),
+                "formatDate should return empty string for null input");
+    }
 }
@@ -1,6 +1,10 @@
 package com.app.utils;
 
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -78,4 +82,73 @@ public class StringUtilsTest {
         assertTrue(greeting.length() <= StringUtils.MAX_STRING_LENGTH + 11, // "Bonjour, " + "!" = 11 chars
                 "Greeting should limit input to MAX_STRING_LENGTH");
     }
+    
+    @Test
+    public void testColumnOperations() {
+        // LinkedList and StringBuilder: any List of any CharSequence is accepted
+        List<CharSequence> values = new LinkedList<>(
+                Arrays.asList("ABC", "  Marie  ", null, "ABCDEF", new StringBuilder(" xy")));
+        
+        StringColumn padded = StringUtils.padColumn(values, 5, '0', true);
+        assertEquals(values.size(), padded.size(), "Column should keep every row");
+        assertEquals("00ABC", padded.get(0), "Left padding should match pad");
+        assertEquals("  Marie  ", padded.get(1), "Values longer than the length should not be truncated");
+        assertEquals("00000", padded.get(2), "Null values should be padded like empty strings");
+        assertEquals(5, padded.getSlotWidth(), "Slot width should be the pad length");
+        assertTrue(padded.isOverflow(1), "Values longer than the slot should be kept as overflow");
+        assertThrows(IllegalStateException.class, () -> padded.getChunk(1),
+                "Overflow rows should not be readable through the chunk");
+        assertThrows(IllegalStateException.class, () -> padded.getOffset(1),
+                "Overflow rows should not be readable through the offset");
+        assertThrows(IllegalStateException.class, () -> padded.getLength(1),
+                "Overflow rows should not be readable through the slot length");
+        assertEquals("ABCDEF", padded.get(3), "Overflow rows should be readable through get");
+        assertEquals("00ABC", new String(padded.getChunk(0), padded.getOffset(0), padded.getLength(0)),
+                "Rows fitting the slot should be readable through the chunk");
+        
+        StringColumn trimmed = StringUtils.trimColumn(values, 8);
+        assertEquals("Marie", trimmed.get(1), "Trimming should match String.trim");
+        assertEquals("xy", trimmed.get(4), "Trimming should accept any CharSequence");
+        
+        StringColumn formatted = StringUtils.formatColumn(values, 6, StringUtils.DEFAULT_PADDING, false);
+        assertEquals("Marie ", formatted.get(1), "Formatting should trim then pad");
+        assertEquals(6, formatted.getSlotWidth(), "Slot width should be the pad length when every value fits");
+        assertFalse(formatted.isOverflow(1), "Values fitting the slot should not overflow");
+        assertEquals("Marie ", new String(formatted.getChunk(1), formatted.getOffset(1), formatted.getLength(1)),
+                "Buffer slots should hold the row values");
+        
+        assertEquals(0, StringUtils.padColumn(null, 5, false).size(), "Null column should give an empty column");
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.trimColumn(values, Short.MAX_VALUE + 1),
+                "Slot width above Short.MAX_VALUE should be rejected");
+    }
+    
+    @Test
+    public void testColumnOperationsMatchSingleValue() {
+        // Large enough to be processed in parallel and to span several buffer chunks,
+        // with a few values longer than the slots
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < StringUtils.MAX_STRING_LENGTH + 10; i++) {
+            longString.append(i % 7 == 0 ? ' ' : 'X');
+        }
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < StringUtils.PARALLEL_THRESHOLD * 2; i++) {
+            values.add(i % 10_000 == 0 ? longString.toString() : " value " + i + (i % 3 == 0 ? "  " : ""));
+        }
+        
+        StringColumn padded = StringUtils.padColumn(values, 12, true);
+        StringColumn trimmed = StringUtils.trimColumn(values, 16);
+        StringColumn truncated = StringUtils.truncateColumn(values, 16);
+        StringColumn formatted = StringUtils.formatColumn(values, 12, '*', false);
+        
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            String truncatedValue = value.length() > StringUtils.MAX_STRING_LENGTH
+                    ? value.substring(0, StringUtils.MAX_STRING_LENGTH) : value;
+            assertEquals(StringUtils.pad(value, 12, true), padded.get(i), "padColumn should match pad");
+            assertEquals(value.trim(), trimmed.get(i), "trimColumn should match trim");
+            assertEquals(truncatedValue, truncated.get(i), "truncateColumn should match truncation");
+            assertEquals(StringUtils.pad(truncatedValue.trim(), 12, '*', false), formatted.get(i),
+                    "formatColumn should match truncate, trim and pad");
+        }
+    }
 }